@@ -1,3 +1,15 @@
+import org.yaml.snakeyaml.Yaml
+import java.io.DataOutputStream
+
+buildscript {
+    repositories {
+        mavenCentral()
+    }
+    dependencies {
+        classpath("org.yaml:snakeyaml:2.2")
+    }
+}
+
 plugins {
     java
     id("net.minecrell.plugin-yml.paper") version "0.6.0"
@@ -37,4 +49,112 @@ paper {
             default = net.minecrell.pluginyml.bukkit.BukkitPluginDescription.Permission.Default.OP
         }
     }
-}
\ No newline at end of file
+}
+
+val langSourceDir = layout.projectDirectory.dir("src/main/resources/lang")
+val compiledLangDir = layout.buildDirectory.dir("generated/lang")
+
+val compileLanguages by tasks.registering {
+    group = "build"
+    description = "Validates bundled language files and compiles them into binary bundles"
+    inputs.dir(langSourceDir)
+    outputs.dir(compiledLangDir)
+
+    doLast {
+        val referenceLang = "en_EN"
+        val placeholder = Regex("%(?:(\\d+)\\$)?([-#+ 0,(<]*)\\d*(\\.\\d+)?[a-zA-Z%]")
+        val errors = mutableListOf<String>()
+
+        fun flatten(fileName: String, prefix: String, node: Map<*, *>, out: MutableMap<String, String>) {
+            for ((key, value) in node) {
+                val path = if (prefix.isEmpty()) key.toString() else "$prefix.$key"
+                when (value) {
+                    is Map<*, *> -> flatten(fileName, path, value, out)
+                    is String -> out[path] = value
+                    else -> errors.add("$fileName: '$path' must be a string, found ${value?.javaClass?.simpleName ?: "null"}")
+                }
+            }
+        }
+
+        // Maps each format argument index to its conversion, following java.util.Formatter rules,
+        // so translations may reorder arguments with explicit indices
+        fun formatArguments(message: String): Map<Int, Char> {
+            val arguments = sortedMapOf<Int, Char>()
+            var ordinal = 0
+            var last = 0
+            for (match in placeholder.findAll(message)) {
+                val conversion = match.value.last()
+                if (conversion == '%' || conversion == 'n') {
+                    continue
+                }
+                val index = when {
+                    match.groupValues[2].contains('<') -> last
+                    match.groupValues[1].isNotEmpty() -> match.groupValues[1].toInt()
+                    else -> ++ordinal
+                }
+                arguments[index] = conversion
+                last = index
+            }
+            return arguments
+        }
+
+        val sources = langSourceDir.asFile.listFiles { file -> file.extension == "yml" }
+            ?.sortedBy { it.name }
+            ?: throw GradleException("Language directory not found: ${langSourceDir.asFile}")
+
+        val languages = sources.associate { file ->
+            val root = file.reader(Charsets.UTF_8).use { Yaml().load<Map<String, Any?>>(it) } ?: emptyMap()
+            val messages = linkedMapOf<String, String>()
+            flatten(file.name, "", root, messages)
+            file.nameWithoutExtension to messages
+        }
+
+        val reference = languages[referenceLang]
+            ?: throw GradleException("Reference language file $referenceLang.yml is missing")
+
+        for ((langCode, messages) in languages) {
+            if (langCode == referenceLang) {
+                continue
+            }
+            (reference.keys - messages.keys).forEach { errors.add("$langCode.yml: missing key '$it'") }
+            (messages.keys - reference.keys).forEach { errors.add("$langCode.yml: unknown key '$it'") }
+
+            for ((key, value) in messages) {
+                val expected = reference[key] ?: continue
+                val expectedArgs = formatArguments(expected)
+                val actualArgs = formatArguments(value)
+                if (expectedArgs != actualArgs) {
+                    errors.add("$langCode.yml: placeholders of '$key' are $actualArgs, expected $expectedArgs")
+                }
+            }
+        }
+
+        if (errors.isNotEmpty()) {
+            throw GradleException("Language validation failed:\n" + errors.joinToString("\n"))
+        }
+
+        val outputDir = compiledLangDir.get().asFile
+        outputDir.deleteRecursively()
+        outputDir.mkdirs()
+
+        for ((langCode, messages) in languages) {
+            val version = messages.remove("version") ?: ""
+            DataOutputStream(File(outputDir, "$langCode.bin").outputStream().buffered()).use { out ->
+                out.writeInt(0x534C504C)
+                out.writeByte(1)
+                out.writeUTF(version)
+                out.writeInt(messages.size)
+                for ((key, value) in messages) {
+                    out.writeUTF(key)
+                    out.writeUTF(value)
+                }
+            }
+        }
+    }
+}
+
+tasks.processResources {
+    from(compileLanguages) {
+        into("lang")
+    }
+}
@@ -1,5 +1,6 @@
 package com.sleapplugin;
 
+import org.bukkit.configuration.Configuration;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -46,15 +47,12 @@ public class ConfigUpdater {
         String oldVersion = currentConfig.getString("version", "unknown");
         
 
-        InputStream defaultConfigStream = plugin.getResource(fileName);
-        if (defaultConfigStream == null) {
+        Configuration defaultConfig = loadDefaults(fileName);
+        if (defaultConfig == null) {
             logger.warning("Could not find default " + fileName + " in plugin resources");
             return false;
         }
         
-        FileConfiguration defaultConfig = YamlConfiguration.loadConfiguration(
-                new InputStreamReader(defaultConfigStream));
-        
 
         boolean updated = updateConfigValues(currentConfig, defaultConfig, "", saveComments);
         
@@ -102,15 +100,12 @@ public class ConfigUpdater {
         FileConfiguration currentLang = YamlConfiguration.loadConfiguration(langFile);
         
 
-        InputStream defaultLangStream = plugin.getResource(fileName);
-        if (defaultLangStream == null) {
+        Configuration defaultLang = loadDefaults(fileName);
+        if (defaultLang == null) {
             logger.warning("Could not find default " + fileName + " in plugin resources");
             return false;
         }
         
-        FileConfiguration defaultLang = YamlConfiguration.loadConfiguration(
-                new InputStreamReader(defaultLangStream));
-        
 
         boolean updated = updateConfigValues(currentLang, defaultLang, "", false);
         
@@ -143,20 +138,35 @@ public class ConfigUpdater {
         }
         
 
-        InputStream defaultStream = plugin.getResource(resourcePath);
-        if (defaultStream == null) {
+        Configuration defaultConfig = loadDefaults(resourcePath);
+        if (defaultConfig == null) {
             return false;
         }
         
-        FileConfiguration defaultConfig = YamlConfiguration.loadConfiguration(
-                new InputStreamReader(defaultStream));
-        
 
         return hasMissingKeys(existingConfig, defaultConfig, "");
     }
     
 
-    private boolean hasMissingKeys(FileConfiguration target, FileConfiguration source, String path) {
+    private Configuration loadDefaults(String resourcePath) {
+        if (resourcePath.startsWith("lang/") && resourcePath.endsWith(".yml")) {
+            String langCode = resourcePath.substring("lang/".length(), resourcePath.length() - ".yml".length());
+            LanguageBundle bundle = LanguageBundle.load(plugin, langCode);
+            if (bundle != null) {
+                return bundle.toConfiguration();
+            }
+        }
+        
+        InputStream defaultStream = plugin.getResource(resourcePath);
+        if (defaultStream == null) {
+            return null;
+        }
+        
+        return YamlConfiguration.loadConfiguration(new InputStreamReader(defaultStream));
+    }
+    
+
+    private boolean hasMissingKeys(FileConfiguration target, Configuration source, String path) {
         if (path.isEmpty()) {
 
             for (String key : source.getKeys(false)) {
@@ -201,7 +211,7 @@ public class ConfigUpdater {
     }
     
 
-    private boolean updateConfigValues(FileConfiguration target, FileConfiguration source, 
+    private boolean updateConfigValues(FileConfiguration target, Configuration source, 
                                       String path, boolean saveComments) {
         boolean updated = false;
         
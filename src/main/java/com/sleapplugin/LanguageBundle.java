@@ -0,0 +1,66 @@
+package com.sleapplugin;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+// Reads the lang/<code>.bin bundles produced by the compileLanguages Gradle task,
+// so the bundled defaults can be loaded without parsing YAML at startup.
+public final class LanguageBundle {
+
+    private static final int MAGIC = 0x534C504C;
+    private static final int FORMAT_VERSION = 1;
+
+    private final String version;
+    private final Map<String, String> messages;
+
+    private LanguageBundle(String version, Map<String, String> messages) {
+        this.version = version;
+        this.messages = messages;
+    }
+
+    public static LanguageBundle load(JavaPlugin plugin, String langCode) {
+        String fileName = "lang/" + langCode + ".bin";
+        InputStream stream = plugin.getResource(fileName);
+        if (stream == null) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            if (in.readInt() != MAGIC || in.readUnsignedByte() != FORMAT_VERSION) {
+                plugin.getLogger().warning("Unsupported language bundle format: " + fileName);
+                return null;
+            }
+
+            String version = in.readUTF();
+            int count = in.readInt();
+            Map<String, String> messages = LinkedHashMap.newLinkedHashMap(count);
+            for (int i = 0; i < count; i++) {
+                messages.put(in.readUTF(), in.readUTF());
+            }
+            return new LanguageBundle(version, messages);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Error reading language bundle " + fileName, e);
+            return null;
+        }
+    }
+
+    public Configuration toConfiguration() {
+        MemoryConfiguration config = new MemoryConfiguration();
+        if (!version.isEmpty()) {
+            config.set("version", version);
+        }
+        for (Map.Entry<String, String> entry : messages.entrySet()) {
+            config.set(entry.getKey(), entry.getValue());
+        }
+        return config;
+    }
+}
@@ -1,5 +1,6 @@
 package com.sleapplugin;
 
+import org.bukkit.configuration.Configuration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -37,31 +38,40 @@ public class LanguageManager {
                 }
             }
             
+            Configuration defaultConfig = loadDefaults(language);
+            
             if (langFile.exists()) {
                 langConfig = YamlConfiguration.loadConfiguration(langFile);
-                
-                InputStream defaultLangStream = plugin.getResource("lang/" + fileName);
-                if (defaultLangStream != null) {
-                    YamlConfiguration defaultConfig = YamlConfiguration.loadConfiguration(
-                            new InputStreamReader(defaultLangStream, StandardCharsets.UTF_8));
-                    langConfig.setDefaults(defaultConfig);
-                }
             } else {
-                InputStream defaultLangStream = plugin.getResource("lang/" + fileName);
-                if (defaultLangStream != null) {
-                    langConfig = YamlConfiguration.loadConfiguration(
-                            new InputStreamReader(defaultLangStream, StandardCharsets.UTF_8));
-                } else {
-                    langConfig = new YamlConfiguration();
+                langConfig = new YamlConfiguration();
+                if (defaultConfig == null) {
                     plugin.getLogger().severe("Failed to load language file: " + fileName);
                 }
             }
+            
+            if (defaultConfig != null) {
+                langConfig.setDefaults(defaultConfig);
+            }
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "Error loading language file", e);
             langConfig = new YamlConfiguration();
         }
     }
     
+    private Configuration loadDefaults(String langCode) {
+        LanguageBundle bundle = LanguageBundle.load(plugin, langCode);
+        if (bundle != null) {
+            return bundle.toConfiguration();
+        }
+        
+        InputStream defaultLangStream = plugin.getResource("lang/" + langCode + ".yml");
+        if (defaultLangStream == null) {
+            return null;
+        }
+        return YamlConfiguration.loadConfiguration(
+                new InputStreamReader(defaultLangStream, StandardCharsets.UTF_8));
+    }
+    
     public String getMessage(String key) {
         if (langConfig.contains(key)) {
             return langConfig.getString(key);
@@ -0,0 +1,149 @@
+package com.sleapplugin;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+public class MessageBroadcaster {
+
+    private final JavaPlugin plugin;
+    private final boolean asyncEnabled;
+    private final int minRecipients;
+    private final int batchSize;
+    private final int maxPendingPerWorld;
+    private final ExecutorService executor;
+    private final Map<UUID, WorldLane> lanes = new HashMap<>();
+    private long droppedBroadcasts;
+    private long reportedDroppedBroadcasts;
+    private long lastDropReportTime;
+
+    private static final long DROP_REPORT_INTERVAL = 60000;
+
+    public MessageBroadcaster(JavaPlugin plugin, boolean asyncEnabled, int minRecipients,
+                              int batchSize, int maxPendingPerWorld) {
+        this.plugin = plugin;
+        this.asyncEnabled = asyncEnabled;
+        this.minRecipients = minRecipients;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxPendingPerWorld = Math.max(1, maxPendingPerWorld);
+        this.executor = asyncEnabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+    }
+
+    // Must be called from the main thread: the recipient list is captured here,
+    // only the per-player sending is moved off the tick.
+    public void broadcast(World world, Component message) {
+        List<Player> recipients = new ArrayList<>(world.getPlayers());
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        if (!asyncEnabled || executor.isShutdown()) {
+            sendBatch(recipients, message);
+            return;
+        }
+
+        WorldLane lane = lanes.computeIfAbsent(world.getUID(), k -> new WorldLane());
+
+        // Small audiences are cheaper to serve inline, but only while nothing is queued
+        // for this world, otherwise the message could overtake an earlier one
+        if (recipients.size() < minRecipients && lane.pending.get() == 0) {
+            sendBatch(recipients, message);
+            return;
+        }
+
+        if (lane.pending.get() >= maxPendingPerWorld) {
+            droppedBroadcasts++;
+            reportDroppedBroadcasts(world);
+            return;
+        }
+
+        lane.pending.incrementAndGet();
+        lane.tail = lane.tail
+                .thenCompose(v -> sendBatches(recipients, message))
+                .handle((v, e) -> {
+                    lane.pending.decrementAndGet();
+                    if (e != null) {
+                        plugin.getLogger().log(Level.WARNING, "Error broadcasting message to world " + world.getName(), e);
+                    }
+                    return null;
+                });
+    }
+
+    // Called from the main thread when a world unloads, so lanes of temporary worlds are not kept forever
+    public void removeWorld(World world) {
+        lanes.remove(world.getUID());
+    }
+
+    public void shutdown() {
+        if (executor == null) {
+            lanes.clear();
+            return;
+        }
+
+        // Queued broadcasts are only submitted once the previous one in their lane completes,
+        // so wait on the lane tails before the executor stops accepting work
+        CompletableFuture<?>[] tails = lanes.values().stream()
+                .map(lane -> lane.tail)
+                .toArray(CompletableFuture[]::new);
+        lanes.clear();
+
+        try {
+            CompletableFuture.allOf(tails).get(2, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            plugin.getLogger().warning("Timed out waiting for pending broadcasts to finish");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Lane tails never complete exceptionally, failures are logged per broadcast
+        }
+        executor.shutdownNow();
+    }
+
+    private void reportDroppedBroadcasts(World world) {
+        long currentTime = System.currentTimeMillis();
+        if (currentTime - lastDropReportTime < DROP_REPORT_INTERVAL) {
+            return;
+        }
+
+        plugin.getLogger().warning("Broadcast queue for world " + world.getName() + " is full, dropped "
+                + (droppedBroadcasts - reportedDroppedBroadcasts) + " message(s) since the last report ("
+                + droppedBroadcasts + " total)");
+        reportedDroppedBroadcasts = droppedBroadcasts;
+        lastDropReportTime = currentTime;
+    }
+
+    private CompletableFuture<Void> sendBatches(List<Player> recipients, Component message) {
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < recipients.size(); from += batchSize) {
+            List<Player> batch = recipients.subList(from, Math.min(from + batchSize, recipients.size()));
+            batches.add(CompletableFuture.runAsync(() -> sendBatch(batch, message), executor));
+        }
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture[0]));
+    }
+
+    private void sendBatch(List<Player> recipients, Component message) {
+        for (Player player : recipients) {
+            player.sendMessage(message);
+        }
+    }
+
+    private static final class WorldLane {
+        private final AtomicInteger pending = new AtomicInteger();
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+    }
+}
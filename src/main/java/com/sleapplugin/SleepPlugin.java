@@ -7,14 +7,20 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerBedEnterEvent;
 import org.bukkit.event.player.PlayerBedLeaveEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -25,7 +31,13 @@ public class SleepPlugin extends JavaPlugin implements Listener {
     private final Map<World, Set<Player>> sleepingPlayers = new HashMap<>();
     private final Map<World, BukkitRunnable> sleepTasks = new HashMap<>();
     private final Map<UUID, Long> lastProgressMessageTime = new ConcurrentHashMap<>();
+    private final LinkedHashMap<Player, World> reconcileQueue = new LinkedHashMap<>();
+    private BukkitTask reconcileTask;
+    private long sleepDriftCount;
+    private long reportedDriftCount;
+    private long lastDriftReportTime;
     private LanguageManager lang;
+    private MessageBroadcaster broadcaster;
     
     private int skipDelay;
     private int morningTime;
@@ -36,11 +48,25 @@ public class SleepPlugin extends JavaPlugin implements Listener {
     private boolean smoothTimeEnabled;
     private int smoothTimeDuration;
     private int smoothTimeSteps;
+    private boolean adaptiveSmoothTimeEnabled;
+    private double reducedStepsMspt;
+    private double instantTimeMspt;
+    private double instantTimeTps;
+    private int reducedSmoothTimeSteps;
+    private double recoveryMarginMspt;
+    private TransitionMode transitionMode = TransitionMode.FULL;
+    private boolean reconciliationEnabled;
+    private int reconcilePlayersPerTick;
     
     private static final long PROGRESS_MESSAGE_COOLDOWN = 3000;
+    private static final long DRIFT_REPORT_INTERVAL = 60000;
     
     private static final String PLUGIN_VERSION = "1.0.2";
     
+    private enum TransitionMode {
+        FULL, REDUCED, INSTANT
+    }
+    
     @Override
     public void onEnable() {
         saveDefaultConfig();
@@ -64,6 +90,20 @@ public class SleepPlugin extends JavaPlugin implements Listener {
         smoothTimeEnabled = getConfig().getBoolean("smooth-time-transition.enabled", true);
         smoothTimeDuration = getConfig().getInt("smooth-time-transition.duration-ticks", 60);
         smoothTimeSteps = getConfig().getInt("smooth-time-transition.steps", 60);
+        adaptiveSmoothTimeEnabled = getConfig().getBoolean("smooth-time-transition.adaptive.enabled", true);
+        reducedStepsMspt = getConfig().getDouble("smooth-time-transition.adaptive.reduced-steps-mspt", 40.0);
+        instantTimeMspt = getConfig().getDouble("smooth-time-transition.adaptive.instant-mspt", 50.0);
+        instantTimeTps = getConfig().getDouble("smooth-time-transition.adaptive.instant-below-tps", 15.0);
+        reducedSmoothTimeSteps = Math.max(1, getConfig().getInt("smooth-time-transition.adaptive.reduced-steps", 10));
+        recoveryMarginMspt = Math.max(0.0, getConfig().getDouble("smooth-time-transition.adaptive.recovery-margin-mspt", 5.0));
+        reconciliationEnabled = getConfig().getBoolean("sleep-reconciliation.enabled", true);
+        reconcilePlayersPerTick = Math.max(1, getConfig().getInt("sleep-reconciliation.players-per-tick", 4));
+        
+        broadcaster = new MessageBroadcaster(this,
+                getConfig().getBoolean("async-broadcast.enabled", true),
+                getConfig().getInt("async-broadcast.min-recipients", 50),
+                getConfig().getInt("async-broadcast.batch-size", 64),
+                getConfig().getInt("async-broadcast.max-pending-per-world", 16));
         
         updateLanguageFiles(configUpdater);
         
@@ -71,6 +111,10 @@ public class SleepPlugin extends JavaPlugin implements Listener {
         
         Bukkit.getPluginManager().registerEvents(this, this);
         
+        if (reconciliationEnabled) {
+            reconcileTask = Bukkit.getScheduler().runTaskTimer(this, this::reconcileSleepingPlayers, 1L, 1L);
+        }
+        
         displayPluginInfo();
         
         getLogger().info(lang.getMessage("plugin_enabled"));
@@ -102,6 +146,20 @@ public class SleepPlugin extends JavaPlugin implements Listener {
         sleepTasks.clear();
         sleepingPlayers.clear();
         
+        if (reconcileTask != null) {
+            reconcileTask.cancel();
+            reconcileTask = null;
+        }
+        reconcileQueue.clear();
+        
+        if (broadcaster != null) {
+            broadcaster.shutdown();
+        }
+        
+        if (sleepDriftCount > 0) {
+            getLogger().info("Corrected " + sleepDriftCount + " out-of-sync sleeping player(s) during this session");
+        }
+        
         getLogger().info(lang.getMessage("plugin_disabled"));
     }
     
@@ -118,6 +176,17 @@ public class SleepPlugin extends JavaPlugin implements Listener {
             return;
         }
         
+        if (reconciliationEnabled) {
+            World previousWorld = reconcileQueue.put(player, world);
+            if (previousWorld != null && !previousWorld.equals(world)) {
+                Set<Player> previousSleeping = sleepingPlayers.get(previousWorld);
+                if (previousSleeping != null && previousSleeping.contains(player)) {
+                    recordDrift(player, previousWorld);
+                    removeSleepingPlayer(player, previousWorld);
+                }
+            }
+        }
+        
         sleepingPlayers.computeIfAbsent(world, k -> new HashSet<>()).add(player);
         
         checkSleepRequirement(world);
@@ -126,8 +195,69 @@ public class SleepPlugin extends JavaPlugin implements Listener {
     @EventHandler
     public void onPlayerBedLeave(PlayerBedLeaveEvent event) {
         Player player = event.getPlayer();
-        World world = player.getWorld();
+        World trackedWorld = reconcileQueue.remove(player);
+        removeSleepingPlayer(player, trackedWorld != null ? trackedWorld : player.getWorld());
+    }
+    
+    @EventHandler
+    public void onWorldUnload(WorldUnloadEvent event) {
+        broadcaster.removeWorld(event.getWorld());
+    }
+    
+    private void reconcileSleepingPlayers() {
+        reportSleepDrift();
+        
+        if (reconcileQueue.isEmpty()) {
+            return;
+        }
+        
+        List<Map.Entry<Player, World>> stillSleeping = new ArrayList<>(reconcilePlayersPerTick);
+        Iterator<Map.Entry<Player, World>> iterator = reconcileQueue.entrySet().iterator();
+        
+        for (int checked = 0; checked < reconcilePlayersPerTick && iterator.hasNext(); checked++) {
+            Map.Entry<Player, World> entry = iterator.next();
+            Player player = entry.getKey();
+            World world = entry.getValue();
+            iterator.remove();
+            
+            Set<Player> sleeping = sleepingPlayers.get(world);
+            if (sleeping == null || !sleeping.contains(player)) {
+                continue;
+            }
+            
+            if (player.isOnline() && player.isSleeping() && player.getWorld().equals(world)) {
+                stillSleeping.add(Map.entry(player, world));
+                continue;
+            }
+            
+            recordDrift(player, world);
+            removeSleepingPlayer(player, world);
+        }
         
+        // Move checked sleepers to the back so the next tick continues with the rest of the queue
+        for (Map.Entry<Player, World> entry : stillSleeping) {
+            reconcileQueue.put(entry.getKey(), entry.getValue());
+        }
+    }
+    
+    private void recordDrift(Player player, World world) {
+        sleepDriftCount++;
+        getLogger().fine("Removed out-of-sync sleeping player " + player.getName() + " from world " + world.getName());
+    }
+    
+    private void reportSleepDrift() {
+        long currentTime = System.currentTimeMillis();
+        if (sleepDriftCount == reportedDriftCount || currentTime - lastDriftReportTime < DRIFT_REPORT_INTERVAL) {
+            return;
+        }
+        
+        getLogger().info("Corrected " + (sleepDriftCount - reportedDriftCount)
+                + " out-of-sync sleeping player(s) since the last report (" + sleepDriftCount + " total)");
+        reportedDriftCount = sleepDriftCount;
+        lastDriftReportTime = currentTime;
+    }
+    
+    private void removeSleepingPlayer(Player player, World world) {
         Set<Player> sleeping = sleepingPlayers.get(world);
         if (sleeping != null) {
             sleeping.remove(player);
@@ -262,9 +392,10 @@ public class SleepPlugin extends JavaPlugin implements Listener {
                         world.setStorm(false);
                     }
                     
+                    boolean smoothed = false;
                     if (wasNight) {
                         if (smoothTimeEnabled) {
-                            smoothlySetTime(world, morningTime);
+                            smoothed = smoothlySetTime(world, morningTime);
                         } else {
                             world.setTime(morningTime);
                         }
@@ -291,7 +422,7 @@ public class SleepPlugin extends JavaPlugin implements Listener {
                                 
                                 String messageKey;
                                 
-                                if (wasNight && smoothTimeEnabled && baseKey.equals("sleep")) {
+                                if (smoothed && baseKey.equals("sleep")) {
                                     messageKey = messageMode.equals("minimal") ? 
                                         "sleep_skipping_smooth_minimal" : "sleep_skipping_smooth";
                                 } else {
@@ -340,28 +471,30 @@ public class SleepPlugin extends JavaPlugin implements Listener {
     }
     
     private void broadcastToWorld(World world, Component message) {
-        for (Player player : world.getPlayers()) {
-            player.sendMessage(message);
-        }
+        broadcaster.broadcast(world, message);
     }
     
     private void sendMessageToWorld(World world, String message) {
-        Component component = Component.text(message);
-        for (Player player : world.getPlayers()) {
-            player.sendMessage(component);
-        }
+        broadcaster.broadcast(world, Component.text(message));
     }
     
-    private void smoothlySetTime(World world, long targetTime) {
+    private boolean smoothlySetTime(World world, long targetTime) {
         long currentTime = world.getTime();
         long diff = (targetTime - currentTime + 24000L) % 24000L; 
         
         if (diff < 100) {
             world.setTime(targetTime);
-            return;
+            return false;
+        }
+        
+        TransitionMode mode = selectTransitionMode();
+        if (mode == TransitionMode.INSTANT) {
+            world.setTime(targetTime);
+            return false;
         }
         
-        final int stepCount = smoothTimeSteps;
+        final int stepCount = mode == TransitionMode.REDUCED
+                ? Math.min(smoothTimeSteps, reducedSmoothTimeSteps) : smoothTimeSteps;
         final int ticksPerStep = Math.max(1, smoothTimeDuration / stepCount);
         
         for (int i = 0; i < stepCount; i++) {
@@ -377,6 +510,39 @@ public class SleepPlugin extends JavaPlugin implements Listener {
                 }
             }, ticksPerStep * i);
         }
+        return true;
+    }
+    
+    private TransitionMode selectTransitionMode() {
+        if (!adaptiveSmoothTimeEnabled) {
+            return TransitionMode.FULL;
+        }
+        
+        double mspt = Bukkit.getAverageTickTime();
+        double tps = Bukkit.getTPS()[0];
+        
+        // Leaving a degraded mode requires MSPT to drop below the threshold by the recovery margin,
+        // so a server hovering around a threshold does not flip modes on every skip
+        double instantThreshold = transitionMode == TransitionMode.INSTANT
+                ? instantTimeMspt - recoveryMarginMspt : instantTimeMspt;
+        double reducedThreshold = transitionMode != TransitionMode.FULL
+                ? reducedStepsMspt - recoveryMarginMspt : reducedStepsMspt;
+        
+        TransitionMode mode;
+        if (mspt >= instantThreshold || tps < instantTimeTps) {
+            mode = TransitionMode.INSTANT;
+        } else if (mspt >= reducedThreshold) {
+            mode = TransitionMode.REDUCED;
+        } else {
+            mode = TransitionMode.FULL;
+        }
+        
+        if (mode != transitionMode) {
+            getLogger().info(String.format("Smooth time transition switched from %s to %s mode (MSPT: %.1f, TPS: %.1f)",
+                    transitionMode, mode, mspt, tps));
+            transitionMode = mode;
+        }
+        return mode;
     }
     
     private void displayPluginInfo() {